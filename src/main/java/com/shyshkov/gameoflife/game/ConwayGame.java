@@ -1,9 +1,13 @@
 package com.shyshkov.gameoflife.game;
 
-import com.shyshkov.gameoflife.model.Cell;
 import com.shyshkov.gameoflife.model.Grid;
 
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A representation of Game of Life algorithm.
@@ -11,6 +15,8 @@ import java.util.Objects;
  */
 public class ConwayGame {
 
+    private final TiledGenerationEvaluator evaluator = new TiledGenerationEvaluator();
+
     private Grid grid;
 
     /**
@@ -29,22 +35,51 @@ public class ConwayGame {
      * @return new grid generation
      */
     public Grid createNextGeneration() {
-        int height = grid.getHeight();
-        int width = grid.getWidth();
-        Grid nextGenGrid = new Grid(height, width);
-
-        for (int x = 0; x < height; x++) {
-            for (int y = 0; y < width; y++) {
-                int liveNeighboursCount = grid.getLiveNeighboursCountAt(x, y);
-                Cell nextGenCell = createNextGenerationCell(grid.getCellAt(x, y), liveNeighboursCount);
+        return advance(1);
+    }
 
-                nextGenGrid.setCellAt(x, y, nextGenCell);
-            }
-        }
-        grid = nextGenGrid;
+    /**
+     * Creates the grid generation that comes after the given number of steps.
+     * Steps are fused in blocks, so only the generation at the end of each block is materialized.
+     *
+     * @param generations number of generations to advance
+     *
+     * @throws IllegalArgumentException if generation count is not positive
+     * @return new grid generation
+     */
+    public Grid advance(int generations) {
+        validateGenerationCount(generations);
+        grid = evaluator.evaluate(grid, generations);
         return grid;
     }
 
+    /**
+     * Returns a lazy infinite stream of the generations that follow the current one.
+     * The game itself is not advanced by consuming the stream.
+     *
+     * @return stream of next generations
+     */
+    public Stream<Grid> generations() {
+        return generations(1);
+    }
+
+    /**
+     * Returns a lazy infinite stream of every <b>step</b>-th generation that follows the current one.
+     * The skipped generations are evaluated in fused blocks, so only the generation at the end of each block
+     * is materialized. The game itself is not advanced by consuming the stream.
+     *
+     * @param step number of generations between two stream elements
+     *
+     * @throws IllegalArgumentException if step is not positive
+     * @return stream of generations
+     */
+    public Stream<Grid> generations(int step) {
+        validateGenerationCount(step);
+        Iterator<Grid> iterator = new GenerationIterator(evaluator, grid, step);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
     /**
      * Returns grid content as text.
      *
@@ -54,15 +89,33 @@ public class ConwayGame {
         return grid.toString();
     }
 
-    private Cell createNextGenerationCell(Cell previousGenCell, int liveNeighboursCount) {
-        Cell nextGenCell = Cell.DEAD;
-        if (previousGenCell == Cell.ALIVE) {
-            if (liveNeighboursCount == 2 || liveNeighboursCount == 3) {
-                nextGenCell = Cell.ALIVE;
-            }
-        } else if (liveNeighboursCount == 3) {
-            nextGenCell = Cell.ALIVE;
+    private static void validateGenerationCount(int generations) {
+        if (generations < 1) {
+            throw new IllegalArgumentException("Generation count must be positive");
+        }
+    }
+
+    private static final class GenerationIterator implements Iterator<Grid> {
+
+        private final TiledGenerationEvaluator evaluator;
+        private final int step;
+        private Grid current;
+
+        private GenerationIterator(TiledGenerationEvaluator evaluator, Grid start, int step) {
+            this.evaluator = evaluator;
+            this.current = start;
+            this.step = step;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public Grid next() {
+            current = evaluator.evaluate(current, step);
+            return current;
         }
-        return nextGenCell;
     }
 }
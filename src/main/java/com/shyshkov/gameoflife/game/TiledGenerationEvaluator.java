@@ -0,0 +1,141 @@
+package com.shyshkov.gameoflife.game;
+
+import com.shyshkov.gameoflife.model.Cell;
+import com.shyshkov.gameoflife.model.Grid;
+
+/**
+ * Evaluates several generations at once by splitting the grid into square tiles.
+ * Every tile is loaded together with a halo of neighbouring cells, advanced by
+ * the fused number of steps in a small scratch buffer and written back only once,
+ * so the grid is read and written once per fused block instead of once per generation.
+ */
+final class TiledGenerationEvaluator {
+
+    static final int DEFAULT_TILE_SIZE = 256;
+    static final int DEFAULT_MAX_FUSED_STEPS = 16;
+
+    private final int tileSize;
+    private final int maxFusedSteps;
+
+    TiledGenerationEvaluator() {
+        this(DEFAULT_TILE_SIZE, DEFAULT_MAX_FUSED_STEPS);
+    }
+
+    TiledGenerationEvaluator(int tileSize, int maxFusedSteps) {
+        if (tileSize < 1 || maxFusedSteps < 1) {
+            throw new IllegalArgumentException("Invalid tiling parameters were provided");
+        }
+        this.tileSize = tileSize;
+        this.maxFusedSteps = maxFusedSteps;
+    }
+
+    /**
+     * Creates the grid generation that follows the provided one after the given number of steps.
+     * The provided grid is left untouched.
+     *
+     * @param grid starting grid
+     * @param generations number of generations to advance
+     *
+     * @return new grid generation
+     */
+    Grid evaluate(Grid grid, int generations) {
+        Grid current = grid;
+        int remaining = generations;
+        while (remaining > 0) {
+            int fusedSteps = Math.min(remaining, maxFusedSteps);
+            current = evaluateFused(current, fusedSteps);
+            remaining -= fusedSteps;
+        }
+        return current;
+    }
+
+    private Grid evaluateFused(Grid grid, int steps) {
+        int height = grid.getHeight();
+        int width = grid.getWidth();
+        Grid nextGenGrid = new Grid(height, width);
+
+        // scratch buffers keep a permanently dead one-cell frame around the loaded region
+        int bufferRows = Math.min(tileSize + 2 * steps, height) + 2;
+        int bufferColumns = Math.min(tileSize + 2 * steps, width) + 2;
+        byte[] source = new byte[bufferRows * bufferColumns];
+        byte[] target = new byte[bufferRows * bufferColumns];
+        Cell[] rowCells = new Cell[bufferColumns - 2];
+
+        for (int tileTop = 0; tileTop < height; tileTop += tileSize) {
+            for (int tileLeft = 0; tileLeft < width; tileLeft += tileSize) {
+                int tileBottom = Math.min(tileTop + tileSize, height);
+                int tileRight = Math.min(tileLeft + tileSize, width);
+
+                // the halo is clipped at grid borders, where outer cells are always dead anyway
+                int regionTop = Math.max(0, tileTop - steps);
+                int regionLeft = Math.max(0, tileLeft - steps);
+                int rows = Math.min(height, tileBottom + steps) - regionTop;
+                int columns = Math.min(width, tileRight + steps) - regionLeft;
+                int stride = columns + 2;
+
+                load(grid, source, rowCells, regionTop, regionLeft, rows, columns);
+                clearFrame(target, rows, columns);
+                for (int step = 0; step < steps; step++) {
+                    computeStep(source, target, rows, columns);
+                    byte[] swap = source;
+                    source = target;
+                    target = swap;
+                }
+
+                // halo cells may be stale after the fused steps, only the tile itself is exact
+                int tileColumns = tileRight - tileLeft;
+                for (int x = tileTop; x < tileBottom; x++) {
+                    int offset = (x - regionTop + 1) * stride + 1 + tileLeft - regionLeft;
+                    for (int j = 0; j < tileColumns; j++) {
+                        rowCells[j] = source[offset + j] != 0 ? Cell.ALIVE : Cell.DEAD;
+                    }
+                    nextGenGrid.setCellsAt(x, tileLeft, rowCells, 0, tileColumns);
+                }
+            }
+        }
+        return nextGenGrid;
+    }
+
+    private static void load(Grid grid, byte[] buffer, Cell[] rowCells,
+                             int regionTop, int regionLeft, int rows, int columns) {
+        int stride = columns + 2;
+        clearFrame(buffer, rows, columns);
+        for (int i = 0; i < rows; i++) {
+            grid.getCellsAt(regionTop + i, regionLeft, rowCells, 0, columns);
+            int offset = (i + 1) * stride + 1;
+            for (int j = 0; j < columns; j++) {
+                buffer[offset + j] = rowCells[j] == Cell.ALIVE ? (byte) 1 : 0;
+            }
+        }
+    }
+
+    private static void clearFrame(byte[] buffer, int rows, int columns) {
+        int stride = columns + 2;
+        int lastRow = (rows + 1) * stride;
+        for (int j = 0; j < stride; j++) {
+            buffer[j] = 0;
+            buffer[lastRow + j] = 0;
+        }
+        for (int i = 1; i <= rows; i++) {
+            buffer[i * stride] = 0;
+            buffer[i * stride + columns + 1] = 0;
+        }
+    }
+
+    private static void computeStep(byte[] source, byte[] target, int rows, int columns) {
+        int stride = columns + 2;
+        for (int i = 1; i <= rows; i++) {
+            int above = (i - 1) * stride;
+            int current = i * stride;
+            int below = (i + 1) * stride;
+            for (int j = 1; j <= columns; j++) {
+                int liveNeighboursCount =
+                        source[above + j - 1] + source[above + j] + source[above + j + 1]
+                        + source[current + j - 1] + source[current + j + 1]
+                        + source[below + j - 1] + source[below + j] + source[below + j + 1];
+                boolean alive = source[current + j] != 0;
+                target[current + j] = liveNeighboursCount == 3 || (alive && liveNeighboursCount == 2) ? (byte) 1 : 0;
+            }
+        }
+    }
+}
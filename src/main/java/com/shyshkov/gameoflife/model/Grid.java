@@ -1,9 +1,11 @@
 package com.shyshkov.gameoflife.model;
 
 import com.shyshkov.gameoflife.util.GridReader;
+import com.shyshkov.gameoflife.util.GridSeeder;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,6 +47,39 @@ public class Grid {
         return new Grid(cells);
     }
 
+    /**
+     * Creates a new M x N grid filled with randomly placed live cells.
+     *
+     * @param height grid row count
+     * @param width grid column count
+     * @param density probability of a cell to be alive
+     * @param seed random generator seed
+     *
+     * @throws IllegalArgumentException if invalid dimensions or density were provided
+     * @return random grid
+     */
+    public static Grid random(int height, int width, double density, long seed) {
+        return random(height, width, density, seed, false);
+    }
+
+    /**
+     * Creates a new M x N grid filled with randomly placed live cells.
+     * The same seed always produces the same grid, no matter if it was filled in parallel.
+     *
+     * @param height grid row count
+     * @param width grid column count
+     * @param density probability of a cell to be alive
+     * @param seed random generator seed
+     * @param parallel whether rows should be filled in parallel
+     *
+     * @throws IllegalArgumentException if invalid dimensions or density were provided
+     * @return random grid
+     */
+    public static Grid random(int height, int width, double density, long seed, boolean parallel) {
+        Cell[][] cells = GridSeeder.randomCells(height, width, density, seed, parallel);
+        return new Grid(cells);
+    }
+
     /**
      * Returns grid row count.
      *
@@ -115,6 +150,68 @@ public class Grid {
         cells[x][y] = cell;
     }
 
+    /**
+     * Copies <b>length</b> cells of the row <b>x</b>, starting at column <b>y</b>, into the target array.
+     *
+     * @param x cell row number
+     * @param y first cell column number
+     * @param target array to copy cells into
+     * @param offset first target array position
+     * @param length number of cells to copy
+     *
+     * @throws IllegalArgumentException if coordinates are invalid
+     */
+    public void getCellsAt(int x, int y, Cell[] target, int offset, int length) {
+        validateRowSegment(x, y, length);
+        System.arraycopy(cells[x], y, target, offset, length);
+    }
+
+    /**
+     * Sets <b>length</b> cells of the row <b>x</b>, starting at column <b>y</b>, to the values of the source array.
+     *
+     * @param x cell row number
+     * @param y first cell column number
+     * @param source array to copy cells from
+     * @param offset first source array position
+     * @param length number of cells to copy
+     *
+     * @throws IllegalArgumentException if coordinates are invalid
+     */
+    public void setCellsAt(int x, int y, Cell[] source, int offset, int length) {
+        validateRowSegment(x, y, length);
+        System.arraycopy(source, offset, cells[x], y, length);
+    }
+
+    /**
+     * Copies all cells of the pattern grid into this grid, so that the pattern's
+     * top left cell is placed at <b>x</b> and <b>y</b> coordinates.
+     *
+     * @param pattern grid to copy cells from
+     * @param x target row number
+     * @param y target column number
+     *
+     * @throws IllegalArgumentException if the pattern does not fit into the grid at coordinates
+     */
+    public void stamp(Grid pattern, int x, int y) {
+        Objects.requireNonNull(pattern, "Pattern must be provided");
+        stampCells(pattern.cells, x, y);
+    }
+
+    /**
+     * Copies all cells of the library pattern into this grid, so that the pattern's
+     * top left cell is placed at <b>x</b> and <b>y</b> coordinates.
+     *
+     * @param pattern library pattern
+     * @param x target row number
+     * @param y target column number
+     *
+     * @throws IllegalArgumentException if the pattern does not fit into the grid at coordinates
+     */
+    public void stamp(Pattern pattern, int x, int y) {
+        Objects.requireNonNull(pattern, "Pattern must be provided");
+        stampCells(pattern.getCells(), x, y);
+    }
+
     @Override
     public String toString() {
         return Stream.of(cells)
@@ -135,10 +232,29 @@ public class Grid {
         return cells;
     }
 
+    private void stampCells(Cell[][] patternCells, int x, int y) {
+        int patternHeight = patternCells.length;
+        int patternWidth = patternCells[0].length;
+        validateCellCoordinates(x, y);
+        validateCellCoordinates(x + patternHeight - 1, y + patternWidth - 1);
+
+        for (int i = 0; i < patternHeight; i++) {
+            System.arraycopy(patternCells[i], 0, cells[x + i], y, patternWidth);
+        }
+    }
+
     private boolean areCoordinatesOutOfBorder(int x, int y) {
         return x < 0 || y < 0 || x >= getHeight() || y >= getWidth();
     }
 
+    private void validateRowSegment(int x, int y, int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("Invalid cell count");
+        }
+        validateCellCoordinates(x, y);
+        validateCellCoordinates(x, y + length - 1);
+    }
+
     private void validateCellCoordinates(int x, int y) {
         if (areCoordinatesOutOfBorder(x, y)) {
             throw new IllegalArgumentException("Invalid cell coordinates");
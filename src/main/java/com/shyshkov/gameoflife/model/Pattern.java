@@ -0,0 +1,62 @@
+package com.shyshkov.gameoflife.model;
+
+import java.util.stream.Stream;
+
+/**
+ * Library of well-known patterns that can be stamped onto a grid.
+ */
+public enum Pattern {
+    BLOCK(
+            "■■",
+            "■■"),
+    BLINKER(
+            "■■■"),
+    GLIDER(
+            "□■□",
+            "□□■",
+            "■■■"),
+    LIGHTWEIGHT_SPACESHIP(
+            "□■□□■",
+            "■□□□□",
+            "■□□□■",
+            "■■■■□"),
+    R_PENTOMINO(
+            "□■■",
+            "■■□",
+            "□■□"),
+    GOSPER_GLIDER_GUN(
+            "□□□□□□□□□□□□□□□□□□□□□□□□■□□□□□□□□□□□",
+            "□□□□□□□□□□□□□□□□□□□□□□■□■□□□□□□□□□□□",
+            "□□□□□□□□□□□□■■□□□□□□■■□□□□□□□□□□□□■■",
+            "□□□□□□□□□□□■□□□■□□□□■■□□□□□□□□□□□□■■",
+            "■■□□□□□□□□■□□□□□■□□□■■□□□□□□□□□□□□□□",
+            "■■□□□□□□□□■□□□■□■■□□□□■□■□□□□□□□□□□□",
+            "□□□□□□□□□□■□□□□□■□□□□□□□■□□□□□□□□□□□",
+            "□□□□□□□□□□□■□□□■□□□□□□□□□□□□□□□□□□□□",
+            "□□□□□□□□□□□□■■□□□□□□□□□□□□□□□□□□□□□□");
+
+    private final Cell[][] cells;
+
+    Pattern(String... rows) {
+        this.cells = Stream.of(rows)
+                .map(row -> row.chars()
+                        .mapToObj(symbol -> Cell.fromSymbol((char) symbol))
+                        .toArray(Cell[]::new))
+                .toArray(Cell[][]::new);
+    }
+
+    /**
+     * Creates a new grid that contains only the pattern.
+     *
+     * @return pattern grid
+     */
+    public Grid toGrid() {
+        Grid grid = new Grid(cells.length, cells[0].length);
+        grid.stamp(this, 0, 0);
+        return grid;
+    }
+
+    Cell[][] getCells() {
+        return cells;
+    }
+}
@@ -0,0 +1,69 @@
+package com.shyshkov.gameoflife.util;
+
+import com.shyshkov.gameoflife.model.Cell;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+public final class GridSeeder {
+
+    private static final int ROWS_PER_BLOCK = 64;
+    private static final int SAMPLE_BITS = 32;
+    private static final int SAMPLES_PER_WORD = Long.SIZE / SAMPLE_BITS;
+    private static final long SAMPLE_MASK = (1L << SAMPLE_BITS) - 1;
+
+    public static Cell[][] randomCells(int height, int width, double density, long seed, boolean parallel) {
+        if (height < 1 || width < 1) {
+            throw new IllegalArgumentException("Invalid grid dimensions were provided");
+        }
+        if (!(density >= 0 && density <= 1)) {
+            throw new IllegalArgumentException("Cell density must be between 0 and 1");
+        }
+
+        Cell[][] cells = new Cell[height][];
+        if (density == 0) {
+            for (int i = 0; i < height; i++) {
+                cells[i] = new Cell[width];
+                Arrays.fill(cells[i], Cell.DEAD);
+            }
+            return cells;
+        }
+
+        // every block of rows gets its own generator, so the result does not depend on parallelism
+        int blockCount = (height + ROWS_PER_BLOCK - 1) / ROWS_PER_BLOCK;
+        SplittableRandom rootRandom = new SplittableRandom(seed);
+        SplittableRandom[] blockRandoms = new SplittableRandom[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blockRandoms[i] = rootRandom.split();
+        }
+
+        long threshold = Math.round(density * (1L << SAMPLE_BITS));
+        IntStream blocks = IntStream.range(0, blockCount);
+        if (parallel) {
+            blocks = blocks.parallel();
+        }
+        blocks.forEach(block -> {
+            int lastRow = Math.min(height, (block + 1) * ROWS_PER_BLOCK);
+            for (int i = block * ROWS_PER_BLOCK; i < lastRow; i++) {
+                cells[i] = randomRow(blockRandoms[block], width, threshold);
+            }
+        });
+        return cells;
+    }
+
+    private static Cell[] randomRow(SplittableRandom random, int width, long threshold) {
+        Cell[] row = new Cell[width];
+        int j = 0;
+        while (j < width) {
+            // a single 64-bit word provides two 32-bit samples
+            long word = random.nextLong();
+            int end = Math.min(width, j + SAMPLES_PER_WORD);
+            for (; j < end; j++) {
+                row[j] = (word & SAMPLE_MASK) < threshold ? Cell.ALIVE : Cell.DEAD;
+                word >>>= SAMPLE_BITS;
+            }
+        }
+        return row;
+    }
+}
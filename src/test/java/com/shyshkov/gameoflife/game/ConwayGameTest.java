@@ -0,0 +1,126 @@
+package com.shyshkov.gameoflife.game;
+
+import com.shyshkov.gameoflife.model.Cell;
+import com.shyshkov.gameoflife.model.Grid;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConwayGameTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testCreateNextGenerationOscillatesBlinker() throws IOException {
+        String grid3x3Content =
+                "□□□\n" +
+                "■■■\n" +
+                "□□□";
+        ConwayGame game = new ConwayGame(Grid.fromStream(new ByteArrayInputStream(grid3x3Content.getBytes())));
+
+        Grid nextGenGrid = game.createNextGeneration();
+
+        assertEquals(String.join(System.lineSeparator(), "□■□", "□■□", "□■□"), nextGenGrid.toString());
+        assertEquals(nextGenGrid.toString(), game.getGridAsText());
+    }
+
+    @Test
+    public void testAdvanceMatchesSingleSteps() {
+        Grid grid = randomGrid(70, 45, 42L);
+        ConwayGame game = new ConwayGame(grid);
+
+        Grid stepped = grid;
+        for (int i = 0; i < 37; i++) {
+            stepped = nextGeneration(stepped);
+        }
+
+        assertEquals(stepped.toString(), game.advance(37).toString());
+    }
+
+    @Test
+    public void testTiledEvaluationMatchesSingleStepsForSmallTiles() {
+        Grid grid = randomGrid(23, 31, 7L);
+        TiledGenerationEvaluator stepEvaluator = new TiledGenerationEvaluator(1000, 1);
+        TiledGenerationEvaluator tiledEvaluator = new TiledGenerationEvaluator(4, 5);
+
+        Grid stepped = grid;
+        for (int i = 0; i < 12; i++) {
+            stepped = nextGeneration(stepped);
+        }
+
+        assertEquals(stepped.toString(), stepEvaluator.evaluate(grid, 12).toString());
+        assertEquals(stepped.toString(), tiledEvaluator.evaluate(grid, 12).toString());
+    }
+
+    @Test
+    public void testAdvanceWithInvalidGenerationCount() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Generation count must be positive");
+
+        new ConwayGame(new Grid(1, 1)).advance(0);
+    }
+
+    @Test
+    public void testGenerationsSkipsFramesWithoutAdvancingGame() {
+        Grid grid = randomGrid(30, 30, 1L);
+        ConwayGame game = new ConwayGame(grid);
+        String initialText = game.getGridAsText();
+
+        List<String> everyThirdGeneration = game.generations(3)
+                .limit(4)
+                .map(Grid::toString)
+                .collect(Collectors.toList());
+        List<String> everyGeneration = game.generations()
+                .limit(12)
+                .map(Grid::toString)
+                .collect(Collectors.toList());
+
+        assertEquals(initialText, game.getGridAsText());
+        for (int i = 0; i < everyThirdGeneration.size(); i++) {
+            assertEquals(everyGeneration.get(3 * i + 2), everyThirdGeneration.get(i));
+        }
+    }
+
+    @Test
+    public void testGenerationsWithInvalidStep() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Generation count must be positive");
+
+        new ConwayGame(new Grid(1, 1)).generations(-1);
+    }
+
+    private static Grid randomGrid(int height, int width, long seed) {
+        Random random = new Random(seed);
+        Grid grid = new Grid(height, width);
+        for (int x = 0; x < height; x++) {
+            for (int y = 0; y < width; y++) {
+                if (random.nextInt(3) == 0) {
+                    grid.setCellAt(x, y, Cell.ALIVE);
+                }
+            }
+        }
+        return grid;
+    }
+
+    private static Grid nextGeneration(Grid grid) {
+        Grid nextGenGrid = new Grid(grid.getHeight(), grid.getWidth());
+        for (int x = 0; x < grid.getHeight(); x++) {
+            for (int y = 0; y < grid.getWidth(); y++) {
+                int liveNeighboursCount = grid.getLiveNeighboursCountAt(x, y);
+                if (liveNeighboursCount == 3 || (grid.getCellAt(x, y) == Cell.ALIVE && liveNeighboursCount == 2)) {
+                    nextGenGrid.setCellAt(x, y, Cell.ALIVE);
+                }
+            }
+        }
+        return nextGenGrid;
+    }
+}
@@ -0,0 +1,57 @@
+package com.shyshkov.gameoflife.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class GridRowTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testGetCellsAt() {
+        Grid grid = Pattern.GLIDER.toGrid();
+        Cell[] cells = new Cell[] { Cell.ALIVE, Cell.ALIVE, Cell.ALIVE };
+
+        grid.getCellsAt(1, 1, cells, 1, 2);
+
+        assertArrayEquals(new Cell[] { Cell.ALIVE, Cell.DEAD, Cell.ALIVE }, cells);
+    }
+
+    @Test
+    public void testSetCellsAt() {
+        Grid grid = new Grid(2, 4);
+
+        grid.setCellsAt(1, 1, new Cell[] { Cell.DEAD, Cell.ALIVE, Cell.ALIVE, Cell.ALIVE }, 1, 3);
+
+        assertEquals(String.join(System.lineSeparator(), "□□□□", "□■■■"), grid.toString());
+    }
+
+    @Test
+    public void testGetCellsAtOutOfBorder() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid cell coordinates");
+
+        new Grid(2, 4).getCellsAt(0, 2, new Cell[3], 0, 3);
+    }
+
+    @Test
+    public void testSetCellsAtNegativeRowNumber() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid cell coordinates");
+
+        new Grid(2, 4).setCellsAt(-1, 0, new Cell[] { Cell.ALIVE }, 0, 1);
+    }
+
+    @Test
+    public void testSetCellsAtInvalidCellCount() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid cell count");
+
+        new Grid(2, 4).setCellsAt(0, 0, new Cell[0], 0, 0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.shyshkov.gameoflife.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class GridSeedingTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testRandomIsReproducibleBySeed() {
+        Grid grid = Grid.random(150, 70, 0.3, 42L);
+
+        assertEquals(grid.toString(), Grid.random(150, 70, 0.3, 42L).toString());
+        assertEquals(grid.toString(), Grid.random(150, 70, 0.3, 42L, true).toString());
+        assertNotEquals(grid.toString(), Grid.random(150, 70, 0.3, 43L).toString());
+    }
+
+    @Test
+    public void testRandomFollowsDensity() {
+        Grid grid = Grid.random(200, 200, 0.25, 7L, true);
+
+        assertEquals(10000, countLiveCells(grid), 500);
+    }
+
+    @Test
+    public void testRandomFollowsSparseDensity() {
+        assertEquals(45, countLiveCells(Grid.random(3000, 3000, 5e-6, 7L, true)), 22);
+        assertEquals(90, countLiveCells(Grid.random(3000, 3000, 1e-5, 7L, true)), 30);
+        assertEquals(180, countLiveCells(Grid.random(3000, 3000, 2e-5, 7L, true)), 45);
+    }
+
+    @Test
+    public void testRandomWithZeroAndFullDensity() {
+        assertEquals(new Grid(3, 5).toString(), Grid.random(3, 5, 0, 1L).toString());
+        assertEquals(String.join(System.lineSeparator(), "■■■■■", "■■■■■", "■■■■■"),
+                Grid.random(3, 5, 1, 1L).toString());
+    }
+
+    @Test
+    public void testRandomWithInvalidDimensions() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid grid dimensions were provided");
+
+        Grid.random(0, 5, 0.5, 1L);
+    }
+
+    @Test
+    public void testRandomWithInvalidDensity() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Cell density must be between 0 and 1");
+
+        Grid.random(5, 5, 1.5, 1L);
+    }
+
+    @Test
+    public void testStamp() {
+        Grid grid = Grid.random(4, 5, 1, 1L);
+
+        grid.stamp(Pattern.GLIDER, 1, 2);
+
+        assertEquals(String.join(System.lineSeparator(), "■■■■■", "■■□■□", "■■□□■", "■■■■■"),
+                grid.toString());
+    }
+
+    @Test
+    public void testStampOutOfBorder() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid cell coordinates");
+
+        Grid grid = new Grid(4, 4);
+        grid.stamp(Pattern.GLIDER, 2, 0);
+    }
+
+    @Test
+    public void testStampAtNegativeCoordinates() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid cell coordinates");
+
+        Grid grid = new Grid(4, 4);
+        grid.stamp(Pattern.BLOCK, 0, -1);
+    }
+
+    private static int countLiveCells(Grid grid) {
+        int liveCellCount = 0;
+        for (int x = 0; x < grid.getHeight(); x++) {
+            for (int y = 0; y < grid.getWidth(); y++) {
+                if (grid.getCellAt(x, y) == Cell.ALIVE) {
+                    liveCellCount++;
+                }
+            }
+        }
+        return liveCellCount;
+    }
+}
@@ -0,0 +1,46 @@
+package com.shyshkov.gameoflife.model;
+
+import com.shyshkov.gameoflife.game.ConwayGame;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PatternTest {
+
+    @Test
+    public void testToGrid() {
+        Grid grid = Pattern.GLIDER.toGrid();
+
+        assertEquals(String.join(System.lineSeparator(), "□■□", "□□■", "■■■"), grid.toString());
+    }
+
+    @Test
+    public void testGliderMovesDiagonally() {
+        Grid grid = new Grid(8, 8);
+        grid.stamp(Pattern.GLIDER, 0, 0);
+        Grid expectedGrid = new Grid(8, 8);
+        expectedGrid.stamp(Pattern.GLIDER, 1, 1);
+
+        assertEquals(expectedGrid.toString(), new ConwayGame(grid).advance(4).toString());
+    }
+
+    @Test
+    public void testGosperGliderGunHasPeriodOfThirty() {
+        // enough room for the gun to emit a glider that flies away from it
+        Grid board = new Grid(60, 60);
+        board.stamp(Pattern.GOSPER_GLIDER_GUN, 0, 0);
+
+        ConwayGame game = new ConwayGame(board);
+        Grid firstPeriod = game.advance(30);
+        Grid gunArea = new Grid(9, 36);
+        Grid nextGunArea = new Grid(9, 36);
+        for (int x = 0; x < 9; x++) {
+            for (int y = 0; y < 36; y++) {
+                gunArea.setCellAt(x, y, board.getCellAt(x, y));
+                nextGunArea.setCellAt(x, y, firstPeriod.getCellAt(x, y));
+            }
+        }
+
+        assertEquals(gunArea.toString(), nextGunArea.toString());
+    }
+}